@@ -0,0 +1,60 @@
+////////////////////////////////////////////////////////////////////////////////
+//
+//    Copyright (c) 2022 - 2024.
+//    Haixing Hu, Qubit Co. Ltd.
+//
+//    All rights reserved.
+//
+////////////////////////////////////////////////////////////////////////////////
+package ltd.qubit.commons.spring.converter;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 将字符串转换为 {@link OffsetDateTime} 对象的转换器。
+ *
+ * <p>该转换器接受的语法是 {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} 格式的一个宽松超集，
+ * 例如 "2023-10-26T10:15:30+08:00" 或 "2023-10-26T10:15:30.123Z"。除 ISO 格式外，该转换器还接受
+ * 不带冒号的时区偏移量，例如 "2023-10-26T10:15:30+0800" 和 "2023-10-26T10:15:30+080015"。
+ * 时区偏移量由逐字符扫描解析，并通过 {@link ZoneCache} 缓存。
+ *
+ * <p><b>注意：</b>空字符串或空白字符串将被转换为 {@code null} 值。
+ *
+ * @author 胡海星
+ */
+@Component
+@CustomizedConverter
+public class IsoOffsetDateTimeParser implements Converter<String, OffsetDateTime> {
+
+  /**
+   * 将给定的字符串转换为 {@link OffsetDateTime} 对象。
+   *
+   * @param s
+   *     要转换的字符串，应符合 ISO 8601 带时区偏移量的日期时间格式
+   *     (例如 "2023-10-26T10:15:30+08:00")。
+   * @return 转换后的 {@link OffsetDateTime} 对象；若字符串为空或空白，返回 {@code null}。
+   * @throws DateTimeParseException
+   *     如果字符串的格式不合法，或缺少时区偏移量，或时区偏移量无效。
+   */
+  @Override
+  public OffsetDateTime convert(final String s) {
+    final String text = s.trim();
+    if (text.isEmpty()) {
+      return null;
+    }
+    final int zoneStart = IsoZonedDateTimeScanner.indexOfZone(text);
+    final LocalDateTime dateTime = IsoZonedDateTimeScanner.parseLocalDateTime(text, zoneStart);
+    if (zoneStart == text.length()) {
+      throw new DateTimeParseException("Missing zone offset: " + text, text, zoneStart);
+    }
+    final ZoneOffset offset = IsoZonedDateTimeScanner.parseOffset(text, zoneStart, text.length());
+    return OffsetDateTime.of(dateTime, offset);
+  }
+}
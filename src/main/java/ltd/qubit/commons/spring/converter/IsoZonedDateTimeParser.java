@@ -0,0 +1,94 @@
+////////////////////////////////////////////////////////////////////////////////
+//
+//    Copyright (c) 2022 - 2024.
+//    Haixing Hu, Qubit Co. Ltd.
+//
+//    All rights reserved.
+//
+////////////////////////////////////////////////////////////////////////////////
+package ltd.qubit.commons.spring.converter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 将字符串转换为 {@link ZonedDateTime} 对象的转换器。
+ *
+ * <p>该转换器接受的语法是 {@link DateTimeFormatter#ISO_ZONED_DATE_TIME} 格式的一个宽松超集，
+ * 即本地日期时间后跟时区偏移量、方括号括起的时区 ID 或二者兼有，例如：
+ * <ul>
+ *   <li><code>2023-10-26T10:15:30+08:00</code></li>
+ *   <li><code>2023-10-26T10:15:30Z</code></li>
+ *   <li><code>2023-10-26T10:15:30+08:00[Asia/Shanghai]</code></li>
+ * </ul>
+ *
+ * <p>除 ISO 格式外，该转换器还接受以下 {@link DateTimeFormatter#ISO_ZONED_DATE_TIME} 会拒绝的形式：
+ * <ul>
+ *   <li>不带冒号的时区偏移量，例如 <code>+0800</code> 和 <code>+080015</code>；</li>
+ *   <li>只有时区 ID 而没有时区偏移量，例如 <code>2023-10-26T10:15:30[Asia/Shanghai]</code>；</li>
+ *   <li>{@link ZoneId#of(String)} 接受的偏移量形式的时区 ID，例如 <code>[GMT+8]</code>、
+ *       <code>[UTC+08:00]</code> 和 <code>[+08:00]</code>。</li>
+ * </ul>
+ *
+ * <p>若同时给出时区偏移量和时区 ID，则由时区偏移量确定时刻，再将其转换到时区 ID 所表示的时区，
+ * 与 {@link DateTimeFormatter#ISO_ZONED_DATE_TIME} 的解析结果一致。若只给出时区 ID，则按
+ * {@link ZonedDateTime#of(LocalDateTime, ZoneId)} 的规则确定时区偏移量：若本地日期时间落在
+ * 夏令时切换造成的时间间隙中，则将其向后调整间隙的长度，例如
+ * <code>2023-03-26T02:30[Europe/Paris]</code> 被转换为 <code>2023-03-26T03:30+02:00</code>；
+ * 若落在时间重叠中，则取较早的时区偏移量。
+ *
+ * <p>时区偏移量和地区时区 ID 通过 {@link ZoneCache} 缓存，避免重复查找时区数据库。
+ *
+ * <p><b>注意：</b>空字符串或空白字符串将被转换为 {@code null} 值。
+ *
+ * @author 胡海星
+ */
+@Component
+@CustomizedConverter
+public class IsoZonedDateTimeParser implements Converter<String, ZonedDateTime> {
+
+  /**
+   * 将给定的字符串转换为 {@link ZonedDateTime} 对象。
+   *
+   * @param s
+   *     要转换的字符串，应符合 ISO 8601 带时区的日期时间格式
+   *     (例如 "2023-10-26T10:15:30+08:00[Asia/Shanghai]")。
+   * @return 转换后的 {@link ZonedDateTime} 对象；若字符串为空或空白，返回 {@code null}。
+   * @throws DateTimeParseException
+   *     如果字符串的格式不合法，或其中的时区偏移量或时区 ID 无效。
+   */
+  @Override
+  public ZonedDateTime convert(final String s) {
+    final String text = s.trim();
+    if (text.isEmpty()) {
+      return null;
+    }
+    final int zoneStart = IsoZonedDateTimeScanner.indexOfZone(text);
+    final LocalDateTime dateTime = IsoZonedDateTimeScanner.parseLocalDateTime(text, zoneStart);
+    final int regionStart = text.indexOf('[', zoneStart);
+    final int offsetEnd = (regionStart < 0 ? text.length() : regionStart);
+    final ZoneOffset offset = (offsetEnd > zoneStart
+                               ? IsoZonedDateTimeScanner.parseOffset(text, zoneStart, offsetEnd)
+                               : null);
+    if (regionStart < 0) {
+      if (offset == null) {
+        throw new DateTimeParseException("Missing zone offset or zone ID: " + text,
+            text, zoneStart);
+      }
+      return ZonedDateTime.of(dateTime, offset);
+    }
+    final ZoneId zone = IsoZonedDateTimeScanner.parseRegion(text, regionStart);
+    if (offset == null) {
+      return ZonedDateTime.of(dateTime, zone);
+    } else {
+      return ZonedDateTime.ofInstant(dateTime, offset, zone);
+    }
+  }
+}
@@ -0,0 +1,226 @@
+////////////////////////////////////////////////////////////////////////////////
+//
+//    Copyright (c) 2022 - 2024.
+//    Haixing Hu, Qubit Co. Ltd.
+//
+//    All rights reserved.
+//
+////////////////////////////////////////////////////////////////////////////////
+package ltd.qubit.commons.spring.converter;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 扫描带时区偏移量或时区 ID 的 ISO 8601 日期时间字符串的工具类。
+ *
+ * <p>被扫描的字符串形如 {@code "2023-10-26T10:15:30.123+08:00[Asia/Shanghai]"}，由三部分
+ * 组成：本地日期时间、时区偏移量和方括号括起的时区 ID。对于最常见的
+ * {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]} 格式的本地日期时间，此类直接逐字符扫描数字；
+ * 其他格式交由 {@link LocalDateTime#parse(CharSequence)} 解析。时区偏移量总是逐字符扫描，
+ * 支持 {@code Z}、{@code ±HH}、{@code ±HHMM}、{@code ±HH:MM}、{@code ±HHMMSS} 和
+ * {@code ±HH:MM:SS} 格式。时区偏移量和时区 ID 均通过 {@link ZoneCache} 获取。
+ *
+ * @author 胡海星
+ */
+final class IsoZonedDateTimeScanner {
+
+  private IsoZonedDateTimeScanner() {}
+
+  /**
+   * 查找时区部分（时区偏移量或时区 ID）在字符串中的起始位置。
+   *
+   * @param text
+   *     要扫描的字符串。
+   * @return 时区部分的起始位置；若字符串不包含时区部分，返回字符串的长度。
+   * @throws DateTimeParseException
+   *     如果字符串不包含日期和时间的分隔符 {@code 'T'}。
+   */
+  static int indexOfZone(final String text) {
+    final int n = text.length();
+    int i = 0;
+    while (i < n && text.charAt(i) != 'T' && text.charAt(i) != 't') {
+      ++i;
+    }
+    if (i == n) {
+      throw new DateTimeParseException("Missing date time separator: " + text, text, 0);
+    }
+    for (++i; i < n; ++i) {
+      final char ch = text.charAt(i);
+      if ((ch < '0' || ch > '9') && ch != ':' && ch != '.') {
+        break;
+      }
+    }
+    return i;
+  }
+
+  /**
+   * 解析字符串中的本地日期时间部分。
+   *
+   * @param text
+   *     要解析的字符串。
+   * @param end
+   *     本地日期时间部分的结束位置（不包含）。
+   * @return 解析得到的本地日期时间。
+   * @throws DateTimeParseException
+   *     如果本地日期时间部分的格式不合法。
+   */
+  static LocalDateTime parseLocalDateTime(final String text, final int end) {
+    if (end >= 16
+        && text.charAt(4) == '-'
+        && text.charAt(7) == '-'
+        && (text.charAt(10) == 'T' || text.charAt(10) == 't')
+        && text.charAt(13) == ':') {
+      final int year = parseDigits(text, 0, 4);
+      final int month = parseDigits(text, 5, 7);
+      final int day = parseDigits(text, 8, 10);
+      final int hour = parseDigits(text, 11, 13);
+      final int minute = parseDigits(text, 14, 16);
+      int second = 0;
+      int nano = 0;
+      boolean valid = (year >= 0 && month >= 0 && day >= 0 && hour >= 0 && minute >= 0);
+      if (valid && end > 16) {
+        valid = (end >= 19 && text.charAt(16) == ':');
+        if (valid) {
+          second = parseDigits(text, 17, 19);
+          valid = (second >= 0);
+        }
+        if (valid && end > 19) {
+          final int digits = end - 20;
+          valid = (text.charAt(19) == '.' && digits >= 1 && digits <= 9);
+          if (valid) {
+            nano = parseDigits(text, 20, end);
+            valid = (nano >= 0);
+            for (int i = digits; i < 9; ++i) {
+              nano *= 10;
+            }
+          }
+        }
+      }
+      if (valid) {
+        try {
+          return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+        } catch (final DateTimeException e) {
+          throw new DateTimeParseException(e.getMessage(), text, 0, e);
+        }
+      }
+    }
+    return LocalDateTime.parse(text.substring(0, end));
+  }
+
+  /**
+   * 解析字符串中的时区偏移量部分。
+   *
+   * @param text
+   *     要解析的字符串。
+   * @param start
+   *     时区偏移量部分的起始位置（包含）。
+   * @param end
+   *     时区偏移量部分的结束位置（不包含）。
+   * @return 解析得到的时区偏移量。
+   * @throws DateTimeParseException
+   *     如果时区偏移量部分的格式不合法或超出取值范围。
+   */
+  static ZoneOffset parseOffset(final String text, final int start, final int end) {
+    final int len = end - start;
+    final char sign = text.charAt(start);
+    if (len == 1 && (sign == 'Z' || sign == 'z')) {
+      return ZoneOffset.UTC;
+    }
+    if (sign == '+' || sign == '-') {
+      final int p = start + 1;
+      int hours = -1;
+      int minutes = 0;
+      int seconds = 0;
+      switch (len - 1) {
+        case 2:       // HH
+          hours = parseDigits(text, p, p + 2);
+          break;
+        case 4:       // HHMM
+          hours = parseDigits(text, p, p + 2);
+          minutes = parseDigits(text, p + 2, p + 4);
+          break;
+        case 5:       // HH:MM
+          if (text.charAt(p + 2) == ':') {
+            hours = parseDigits(text, p, p + 2);
+            minutes = parseDigits(text, p + 3, p + 5);
+          }
+          break;
+        case 6:       // HHMMSS
+          hours = parseDigits(text, p, p + 2);
+          minutes = parseDigits(text, p + 2, p + 4);
+          seconds = parseDigits(text, p + 4, p + 6);
+          break;
+        case 8:       // HH:MM:SS
+          if (text.charAt(p + 2) == ':' && text.charAt(p + 5) == ':') {
+            hours = parseDigits(text, p, p + 2);
+            minutes = parseDigits(text, p + 3, p + 5);
+            seconds = parseDigits(text, p + 6, p + 8);
+          }
+          break;
+        default:
+          break;
+      }
+      if (hours >= 0 && minutes >= 0 && minutes < 60 && seconds >= 0 && seconds < 60) {
+        final int total = hours * 3600 + minutes * 60 + seconds;
+        try {
+          return ZoneCache.getOffset(sign == '-' ? -total : total);
+        } catch (final DateTimeException e) {
+          throw new DateTimeParseException(e.getMessage(), text, start, e);
+        }
+      }
+    }
+    throw new DateTimeParseException("Invalid zone offset: "
+        + text.substring(start, end), text, start);
+  }
+
+  /**
+   * 解析字符串末尾方括号中的时区 ID。
+   *
+   * @param text
+   *     要解析的字符串。
+   * @param start
+   *     左方括号 {@code '['} 的位置。
+   * @return 解析得到的时区。
+   * @throws DateTimeParseException
+   *     如果时区 ID 部分的格式不合法或无法找到对应的时区。
+   */
+  static ZoneId parseRegion(final String text, final int start) {
+    final int end = text.length() - 1;
+    if (end <= start + 1 || text.charAt(start) != '[' || text.charAt(end) != ']') {
+      throw new DateTimeParseException("Invalid zone ID: "
+          + text.substring(start), text, start);
+    }
+    try {
+      return ZoneCache.getZoneId(text.substring(start + 1, end));
+    } catch (final DateTimeException e) {
+      throw new DateTimeParseException(e.getMessage(), text, start, e);
+    }
+  }
+
+  /**
+   * 解析字符串中指定区间内的十进制数字。
+   *
+   * @param text
+   *     要解析的字符串。
+   * @param start
+   *     区间的起始位置（包含）。
+   * @param end
+   *     区间的结束位置（不包含）。
+   * @return 解析得到的非负整数；若区间内包含非数字字符，返回 {@code -1}。
+   */
+  private static int parseDigits(final String text, final int start, final int end) {
+    int result = 0;
+    for (int i = start; i < end; ++i) {
+      final int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      result = result * 10 + digit;
+    }
+    return result;
+  }
+}
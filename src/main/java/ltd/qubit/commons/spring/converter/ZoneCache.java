@@ -0,0 +1,116 @@
+////////////////////////////////////////////////////////////////////////////////
+//
+//    Copyright (c) 2022 - 2024.
+//    Haixing Hu, Qubit Co. Ltd.
+//
+//    All rights reserved.
+//
+////////////////////////////////////////////////////////////////////////////////
+package ltd.qubit.commons.spring.converter;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 缓存 {@link ZoneOffset} 和 {@link ZoneId} 实例的并发缓存。
+ *
+ * <p>{@link ZoneId#of(String)} 每次调用都需要校验时区 ID 的格式并在时区数据库中查找对应的
+ * 时区规则，此类缓存其查找结果，使得相同的时区 ID 只会被查找一次。由于每个
+ * {@link ZoneId} 实例都持有其已加载的 {@link java.time.zone.ZoneRules}，缓存
+ * {@link ZoneId} 实例也就同时缓存了其时区规则。
+ *
+ * <p>以整分钟为单位的时区偏移量的取值范围是有限的，因此使用一个定长数组缓存；其他偏移量
+ * 直接调用 {@link ZoneOffset#ofTotalSeconds(int)} 创建。只有时区数据库中的地区时区 ID
+ * （例如 {@code "Asia/Shanghai"}）才会被缓存，因此缓存的大小不会超过时区数据库中时区的数目；
+ * {@code "UTC+08:00"}、{@code "GMT+8"}、{@code "+08:00"} 等偏移量形式的时区 ID 有无穷多种
+ * 写法，不会被缓存，而是每次直接调用 {@link ZoneId#of(String)} 创建。
+ *
+ * @author 胡海星
+ */
+final class ZoneCache {
+
+  /**
+   * 时区偏移量的最大绝对值，以分钟为单位。
+   */
+  private static final int MAX_OFFSET_MINUTES = 18 * 60;
+
+  /**
+   * 以整分钟为单位的时区偏移量缓存，下标为偏移的分钟数加上 {@link #MAX_OFFSET_MINUTES}。
+   */
+  private static final AtomicReferenceArray<ZoneOffset> OFFSETS =
+      new AtomicReferenceArray<>(2 * MAX_OFFSET_MINUTES + 1);
+
+  /**
+   * 时区数据库中所有地区时区 ID 的集合，只有其中的时区 ID 才会被缓存。
+   */
+  private static final Set<String> REGION_IDS = ZoneId.getAvailableZoneIds();
+
+  /**
+   * 地区时区 ID 缓存，键为时区 ID 字符串。
+   */
+  private static final ConcurrentHashMap<String, ZoneId> ZONE_IDS =
+      new ConcurrentHashMap<>();
+
+  private ZoneCache() {}
+
+  /**
+   * 获取指定总秒数的时区偏移量。
+   *
+   * @param totalSeconds
+   *     时区偏移的总秒数，取值范围为 {@code -64800} 到 {@code +64800}。
+   * @return 对应的时区偏移量。
+   * @throws DateTimeException
+   *     如果偏移量超出取值范围。
+   */
+  static ZoneOffset getOffset(final int totalSeconds) {
+    if (totalSeconds % 60 != 0) {
+      return ZoneOffset.ofTotalSeconds(totalSeconds);
+    }
+    final int index = totalSeconds / 60 + MAX_OFFSET_MINUTES;
+    if (index < 0 || index >= OFFSETS.length()) {
+      return ZoneOffset.ofTotalSeconds(totalSeconds);   // throws
+    }
+    ZoneOffset offset = OFFSETS.get(index);
+    if (offset == null) {
+      offset = ZoneOffset.ofTotalSeconds(totalSeconds);
+      if (!OFFSETS.compareAndSet(index, null, offset)) {
+        offset = OFFSETS.get(index);
+      }
+    }
+    return offset;
+  }
+
+  /**
+   * 获取指定 ID 的时区。
+   *
+   * @param id
+   *     时区 ID，例如 {@code "Asia/Shanghai"} 或 {@code "+08:00"}。
+   * @return 对应的时区。
+   * @throws DateTimeException
+   *     如果时区 ID 的格式不合法或无法找到对应的时区。
+   */
+  static ZoneId getZoneId(final String id) {
+    final ZoneId zone = ZONE_IDS.get(id);
+    if (zone != null) {
+      return zone;
+    }
+    if (REGION_IDS.contains(id)) {
+      return ZONE_IDS.computeIfAbsent(id, ZoneId::of);
+    } else {
+      return ZoneId.of(id);
+    }
+  }
+
+  /**
+   * 获取当前缓存的时区 ID 的数目。
+   *
+   * @return 当前缓存的时区 ID 的数目。
+   */
+  static int zoneIdCacheSize() {
+    return ZONE_IDS.size();
+  }
+}
@@ -0,0 +1,46 @@
+package ltd.qubit.commons.spring.converter;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IsoOffsetDateTimeParserTest {
+
+  private final IsoOffsetDateTimeParser parser = new IsoOffsetDateTimeParser();
+
+  @Test
+  void testSameAsIsoOffsetDateTimeFormatter() {
+    final String[] samples = {
+        "2023-10-26T10:15:30+08:00",
+        "2023-10-26T10:15:30.123Z",
+        "2023-10-26T10:15-03:00",
+        "2023-10-26T23:59:59.999999999+14:00",
+        "2023-10-26T10:15:30-18:00",
+    };
+    for (final String sample : samples) {
+      final OffsetDateTime expected = OffsetDateTime.parse(sample,
+          DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+      assertEquals(expected, parser.convert(sample), sample);
+    }
+  }
+
+  @Test
+  void testBlankString() {
+    assertNull(parser.convert(""));
+    assertNull(parser.convert("   "));
+  }
+
+  @Test
+  void testInvalidStrings() {
+    assertThrows(DateTimeParseException.class, () -> parser.convert("2023-10-26T10:15:30"));
+    assertThrows(DateTimeParseException.class, () -> parser.convert("2023-10-26T10:15:30+08:00[Asia/Shanghai]"));
+    assertThrows(DateTimeParseException.class, () -> parser.convert("2023-10-26T25:15:30+08:00"));
+    assertThrows(DateTimeParseException.class, () -> parser.convert("2023-10-26T10:15:30+08:0"));
+  }
+}
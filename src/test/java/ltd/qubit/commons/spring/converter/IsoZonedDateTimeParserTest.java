@@ -0,0 +1,163 @@
+package ltd.qubit.commons.spring.converter;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IsoZonedDateTimeParserTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(IsoZonedDateTimeParserTest.class);
+
+  private static final String[] SAMPLES = {
+      "2023-10-26T10:15:30+08:00",
+      "2023-10-26T10:15:30Z",
+      "2023-10-26T10:15+01:00",
+      "2023-10-26T10:15:30.1-05:30",
+      "2023-10-26T10:15:30.123456789+08:00[Asia/Shanghai]",
+      "2023-10-26T10:15:30+01:00[Europe/Paris]",
+      "2023-10-29T02:30:00+02:00[Europe/Paris]",
+      "2023-10-29T02:30:00+01:00[Europe/Paris]",
+      "2023-10-26T10:15:30+08:00:15",
+      "2023-10-26T10:15:30Z[UTC]",
+      "+12345-01-01T00:00:00Z",
+  };
+
+  private static final String[] BENCHMARK_SAMPLES = {
+      "2023-10-26T10:15:30+08:00",
+      "2023-10-26T10:15:30Z",
+      "2023-10-26T10:15:30.123+08:00[Asia/Shanghai]",
+      "2023-10-26T10:15:30+01:00[Europe/Paris]",
+  };
+
+  private final IsoZonedDateTimeParser parser = new IsoZonedDateTimeParser();
+
+  @Test
+  void testSameAsIsoZonedDateTimeFormatter() {
+    for (final String sample : SAMPLES) {
+      final ZonedDateTime expected = ZonedDateTime.parse(sample,
+          DateTimeFormatter.ISO_ZONED_DATE_TIME);
+      assertEquals(expected, parser.convert(sample), sample);
+    }
+  }
+
+  @Test
+  void testLenientOffsetFormats() {
+    final ZonedDateTime expected = ZonedDateTime.of(2023, 10, 26, 10, 15, 30, 0,
+        ZoneOffset.ofHours(8));
+    assertEquals(expected, parser.convert("2023-10-26T10:15:30+08"));
+    assertEquals(expected, parser.convert("2023-10-26T10:15:30+0800"));
+    assertEquals(expected, parser.convert(" 2023-10-26T10:15:30+08:00 "));
+  }
+
+  @Test
+  void testZoneIdWithoutOffset() {
+    final ZoneId zone = ZoneId.of("Asia/Shanghai");
+    assertEquals(ZonedDateTime.of(2023, 10, 26, 10, 15, 30, 0, zone),
+        parser.convert("2023-10-26T10:15:30[Asia/Shanghai]"));
+  }
+
+  @Test
+  void testZoneIdWithoutOffsetInGap() {
+    assertEquals(ZonedDateTime.of(2023, 3, 26, 3, 30, 0, 0, ZoneId.of("Europe/Paris")),
+        parser.convert("2023-03-26T02:30[Europe/Paris]"));
+  }
+
+  @Test
+  void testRegionIdsStayCachedUnderLoad() {
+    final ZoneId first = parser.convert("2023-10-26T10:15:30+08:00[Asia/Shanghai]").getZone();
+    final int size = ZoneCache.zoneIdCacheSize();
+    for (int i = 1; i < 3600; ++i) {
+      final String id = String.format("UTC+00:%02d:%02d", i / 60, i % 60);
+      assertEquals(i, parser.convert("2023-10-26T10:15:30Z[" + id + "]")
+                            .getOffset().getTotalSeconds());
+    }
+    assertEquals(size, ZoneCache.zoneIdCacheSize());
+    final ZoneId second = parser.convert("2024-01-01T00:00:00+08:00[Asia/Shanghai]").getZone();
+    assertSame(first, second);
+  }
+
+  @Test
+  void testBlankString() {
+    assertNull(parser.convert(""));
+    assertNull(parser.convert("   "));
+  }
+
+  @Test
+  void testInvalidStrings() {
+    assertThrows(DateTimeParseException.class, () -> parser.convert("2023-10-26"));
+    assertThrows(DateTimeParseException.class, () -> parser.convert("2023-10-26T10:15:30"));
+    assertThrows(DateTimeParseException.class, () -> parser.convert("2023-10-26T10:15:30+8"));
+    assertThrows(DateTimeParseException.class, () -> parser.convert("2023-10-26T10:15:30+19:00"));
+    assertThrows(DateTimeParseException.class, () -> parser.convert("2023-10-26T10:15:30+08:60"));
+    assertThrows(DateTimeParseException.class, () -> parser.convert("2023-02-30T10:15:30Z"));
+    assertThrows(DateTimeParseException.class, () -> parser.convert("2023-10-26T10:15:30Z[Mars/Base]"));
+    assertThrows(DateTimeParseException.class, () -> parser.convert("2023-10-26T10:15:30Z[Asia/Shanghai"));
+  }
+
+  /**
+   * 与 {@link DateTimeFormatter#ISO_ZONED_DATE_TIME} 比较解析性能。
+   *
+   * <p>两者在多轮中分别计时，且每轮交替先后顺序；结果仅供参考，精确的测量应使用 JMH。
+   * 使用 {@code mvn test -Dbenchmark=true} 运行。
+   */
+  @Test
+  @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+  void benchmarkAgainstIsoZonedDateTimeFormatter() {
+    final int rounds = 10;
+    final int iterations = 500_000;
+    long formatterNanos = 0;
+    long parserNanos = 0;
+    long checksum = 0;
+    for (int round = 0; round < rounds; ++round) {
+      final boolean parserFirst = (round % 2 == 0);
+      if (parserFirst) {
+        long start = System.nanoTime();
+        checksum += runParser(iterations);
+        parserNanos += System.nanoTime() - start;
+        start = System.nanoTime();
+        checksum += runFormatter(iterations);
+        formatterNanos += System.nanoTime() - start;
+      } else {
+        long start = System.nanoTime();
+        checksum += runFormatter(iterations);
+        formatterNanos += System.nanoTime() - start;
+        start = System.nanoTime();
+        checksum += runParser(iterations);
+        parserNanos += System.nanoTime() - start;
+      }
+    }
+    final long total = (long) rounds * iterations;
+    LOGGER.info("ISO_ZONED_DATE_TIME: {} ns/op, IsoZonedDateTimeParser: {} ns/op (checksum {})",
+        formatterNanos / total, parserNanos / total, checksum);
+  }
+
+  private long runParser(final int iterations) {
+    long checksum = 0;
+    for (int i = 0; i < iterations; ++i) {
+      checksum += parser.convert(BENCHMARK_SAMPLES[i % BENCHMARK_SAMPLES.length])
+                        .toEpochSecond();
+    }
+    return checksum;
+  }
+
+  private long runFormatter(final int iterations) {
+    long checksum = 0;
+    for (int i = 0; i < iterations; ++i) {
+      checksum += ZonedDateTime.parse(BENCHMARK_SAMPLES[i % BENCHMARK_SAMPLES.length],
+          DateTimeFormatter.ISO_ZONED_DATE_TIME).toEpochSecond();
+    }
+    return checksum;
+  }
+}